@@ -1,5 +1,7 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
 import static org.junit.jupiter.api.Assertions.*;
 
 class GuppyTest {
@@ -479,4 +481,71 @@ class GuppyTest {
                 Guppy.DEFAULT_HEALTH_COEFFICIENT);
         assertNull(fry.spawn());
     }
+
+    @Test
+    public void spawnedFryKeepFormattedGenusAndSpecies() {
+        Guppy parent = new Guppy("  poECILIA    ",
+                "  retICUlata   ",
+                Guppy.MATURE_FISH_AGE_IN_WEEKS,
+                true,
+                3,
+                0.75);
+        for (Fish fry : spawnLitter(parent)) {
+            assertEquals("Poecilia", fry.getGenus());
+            assertEquals("reticulata", fry.getSpecies());
+        }
+    }
+
+    @Test
+    public void spawnConstructsFryWithParentDerivedValues() {
+        Guppy parent = new Guppy("Poecilia",
+                "reticulata",
+                Guppy.MATURE_FISH_AGE_IN_WEEKS,
+                true,
+                3,
+                0.75);
+        ArrayList<Fish> listOfFry = spawnLitter(parent);
+        assertTrue(listOfFry.size() <= Fish.MAXIMUM_NUMBER_OF_FRY);
+
+        final double expectedHealthCoefficient = (1 + parent.getHealthCoefficient()) / 2.0;
+        final int expectedGenerationNumber = parent.getGenerationNumber() + 1;
+        for (Fish fry : listOfFry) {
+            assertTrue(fry instanceof Guppy);
+            assertEquals(0, fry.getAgeInWeeks());
+            assertEquals(expectedGenerationNumber, fry.getGenerationNumber());
+            assertEquals(expectedHealthCoefficient, fry.getHealthCoefficient(), 0.000001);
+            assertTrue(fry.getIsAlive());
+        }
+    }
+
+    @Test
+    public void spawnedFryHaveUniqueIdentificationNumbers() {
+        Guppy parent = new Guppy("Poecilia",
+                "reticulata",
+                Guppy.MATURE_FISH_AGE_IN_WEEKS,
+                true,
+                3,
+                0.75);
+        ArrayList<Fish> listOfFry = spawnLitter(parent);
+        Guppy after = new Guppy();
+
+        HashSet<Integer> identificationNumbers = new HashSet<>();
+        assertTrue(identificationNumbers.add(parent.getIdentificationNumber()));
+        for (Fish fry : listOfFry) {
+            assertTrue(identificationNumbers.add(fry.getIdentificationNumber()));
+        }
+        assertTrue(identificationNumbers.add(after.getIdentificationNumber()));
+    }
+
+    private ArrayList<Fish> spawnLitter(Guppy parent) {
+        final int maximumAttempts = 1000;
+        for (int i = 0; i < maximumAttempts; ++i) {
+            ArrayList<Fish> listOfFry = parent.spawn();
+            if (listOfFry != null && !listOfFry.isEmpty()) {
+                return listOfFry;
+            }
+        }
+        fail("No fry spawned in " + maximumAttempts + " attempts");
+        return null;
+    }
 }
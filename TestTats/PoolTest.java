@@ -1000,4 +1000,558 @@ public class PoolTest {
         assertEquals(1, pool.adjustForCrowding());
         assertNotEquals(preRemovalHealthCoefficientAvg, pool.getAverageHealthCoefficient(), 0.0);
     }
+
+    @Test
+    public void removeDeadFishKeepsLivingFishAggregates() {
+        Pool pool = new Pool();
+        for (int i = 0; i < 6; i++) {
+            Fish fish;
+            if (i % 2 == 0) {
+                fish = new Guppy("a", "b", i * 3, i % 3 == 0, 2, (i + 1) / 10.0);
+            } else {
+                fish = new Swordtail("a", "b", i * 7, i % 3 == 0, 2, (i + 1) / 10.0);
+            }
+            if (i == 1 || i == 4) {
+                fish.setIsAlive(false);
+            }
+            pool.addFish(fish);
+        }
+        double averageAge = pool.getAverageAgeInWeeks();
+        double averageHealth = pool.getAverageHealthCoefficient();
+        double femalePercentage = pool.getFemalePercentage();
+        double medianAge = pool.getMedianAge();
+        double volumeRequired = pool.getFishVolumeRequirementInLitres();
+
+        assertEquals(2, pool.removeDeadFish());
+        assertEquals(4, pool.getPopulation());
+        assertEquals(averageAge, pool.getAverageAgeInWeeks(), 0.000001);
+        assertEquals(averageHealth, pool.getAverageHealthCoefficient(), 0.000001);
+        assertEquals(femalePercentage, pool.getFemalePercentage(), 0.000001);
+        assertEquals(medianAge, pool.getMedianAge(), 0.000001);
+        assertEquals(volumeRequired, pool.getFishVolumeRequirementInLitres(), 0.000001);
+        assertEquals(0, pool.removeDeadFish());
+    }
+
+    @Test
+    public void aggregatesReflectFishKilledAfterBeingAdded() {
+        Pool pool = new Pool();
+        Guppy female = new Guppy("a", "b", 20, true, 2, 0.2);
+        Guppy male = new Guppy("a", "b", 10, false, 2, 0.8);
+        pool.addFish(female);
+        pool.addFish(male);
+        female.setIsAlive(false);
+        assertEquals(10, pool.getAverageAgeInWeeks());
+        assertEquals(0.8, pool.getAverageHealthCoefficient());
+        assertEquals(0, pool.getFemalePercentage());
+        assertEquals(male.getVolumeNeeded() / Pool.ML_TO_LITRE_CONVERSION,
+                pool.getFishVolumeRequirementInLitres());
+    }
+
+    @Test
+    public void aggregatesReflectAgeChangedAfterBeingAdded() {
+        Pool pool = new Pool();
+        Guppy guppy1 = new Guppy("a", "b", 4, true, 2, 0.6);
+        Guppy guppy2 = new Guppy("a", "b", 6, true, 2, 0.6);
+        pool.addFish(guppy1);
+        pool.addFish(guppy2);
+        guppy1.setAgeInWeeks(20);
+        assertEquals(13, pool.getAverageAgeInWeeks());
+        assertEquals(0.25 * 20 / 10 + 0.25, pool.getFishVolumeRequirementInLitres());
+    }
+
+    @Test
+    public void aggregatesReflectHealthChangedAfterBeingAdded() {
+        Pool pool = new Pool();
+        Swordtail swordtail1 = new Swordtail("a", "b", 3, true, 5, 0.5);
+        Swordtail swordtail2 = new Swordtail("a", "b", 3, true, 5, 0.5);
+        Swordtail swordtail3 = new Swordtail("a", "b", 3, true, 5, 0.5);
+        pool.addFish(swordtail1);
+        pool.addFish(swordtail2);
+        pool.addFish(swordtail3);
+        swordtail1.setHealthCoefficient(0.8);
+        swordtail2.changeHealthCoefficient(-0.3);
+        assertEquals(1.5 / 3, pool.getAverageHealthCoefficient(), 0.000001);
+        swordtail3.changeHealthCoefficient(-1.0);
+        assertEquals(2, pool.getPopulation());
+        assertEquals(1.0 / 2, pool.getAverageHealthCoefficient(), 0.000001);
+    }
+
+    @Test
+    public void aggregatesReflectIncrementAges() {
+        Pool pool = new Pool();
+        for (int i = 0; i < 5; i++) {
+            pool.addFish(new Guppy("a", "b", 10 + i, true, 2, 0.6));
+        }
+        pool.addFish(new Guppy("a", "b", Guppy.MAXIMUM_AGE_IN_WEEKS, true, 2, 0.6));
+        assertEquals(1, pool.incrementAges());
+        assertEquals(13, pool.getAverageAgeInWeeks());
+        assertEquals(0.25 * (11 + 12 + 13 + 14 + 15) / 10, pool.getFishVolumeRequirementInLitres(), 0.000001);
+    }
+
+    @Test
+    public void getMedianAgeAfterIncrementAges() {
+        Pool pool = new Pool();
+        for (int i = 0; i < 3; i++) {
+            pool.addFish(new Guppy("a", "b", i + 1, false, 2, 0.6));
+        }
+        pool.addFish(new Guppy("a", "b", Guppy.MAXIMUM_AGE_IN_WEEKS, false, 2, 0.6));
+        assertEquals(2.5, pool.getMedianAge());
+        assertEquals(1, pool.incrementAges());
+        assertEquals(3, pool.getMedianAge());
+    }
+
+    @Test
+    public void getMedianAgeAfterFishDiesInPool() {
+        Pool pool = new Pool();
+        Guppy oldest = new Guppy("a", "b", 40, false, 2, 0.6);
+        for (int i = 0; i < 3; i++) {
+            pool.addFish(new Guppy("a", "b", i + 1, false, 2, 0.6));
+        }
+        pool.addFish(oldest);
+        assertEquals(2.5, pool.getMedianAge());
+        oldest.setIsAlive(false);
+        assertEquals(2, pool.getMedianAge());
+    }
+
+    @Test
+    public void getMedianAgeWithRepeatedAgesAcrossSpecies() {
+        Pool pool = new Pool();
+        pool.addFish(new Guppy("a", "b", 0, false, 2, 0.6));
+        pool.addFish(new Guppy("a", "b", 7, false, 2, 0.6));
+        pool.addFish(new Swordtail("a", "b", 7, false, 2, 0.6));
+        pool.addFish(new Swordtail("a", "b", 9, false, 2, 0.6));
+        pool.addFish(new Swordtail("a", "b", Swordtail.MAXIMUM_AGE_IN_WEEKS, false, 2, 0.6));
+        pool.addFish(new Swordtail("a", "b", Swordtail.MAXIMUM_AGE_IN_WEEKS, false, 2, 0.6));
+        assertEquals(8, pool.getMedianAge());
+    }
+
+    @Test
+    public void adjustForCrowdingKillsOnlyTheWeakestFish() {
+        Pool pool = new Pool();
+        pool.setVolumeLitres(0.75);
+        Guppy[] guppies = new Guppy[5];
+        double[] healthCoefficients = {0.4, 0.1, 0.5, 0.2, 0.3};
+        for (int i = 0; i < guppies.length; i++) {
+            guppies[i] = new Guppy("a", "b", 0, true, 2, healthCoefficients[i]);
+            pool.addFish(guppies[i]);
+        }
+        assertEquals(2, pool.adjustForCrowding());
+        assertTrue(guppies[0].getIsAlive());
+        assertFalse(guppies[1].getIsAlive());
+        assertTrue(guppies[2].getIsAlive());
+        assertFalse(guppies[3].getIsAlive());
+        assertTrue(guppies[4].getIsAlive());
+        assertEquals(0.4, pool.getAverageHealthCoefficient(), 0.000001);
+    }
+
+    @Test
+    public void adjustForCrowdingStopsOnceVolumeFits() {
+        Pool pool = new Pool();
+        pool.setVolumeLitres(3.0);
+        for (int i = 0; i < 3; i++) {
+            pool.addFish(new Swordtail("a", "b", 0, true, 2, 0.9 - i / 10.0));
+        }
+        for (int i = 0; i < 4; i++) {
+            pool.addFish(new Guppy("a", "b", 0, true, 2, 0.1 + i / 10.0));
+        }
+        assertEquals(4, pool.adjustForCrowding());
+        assertEquals(3, pool.getPopulation());
+        assertTrue(pool.getFishVolumeRequirementInLitres() <= pool.getVolumeLitres());
+    }
+
+    @Test
+    public void spawnAddsFryWithParentDerivedValues() {
+        final int numberOfFemales = 5;
+        final int maximumAttempts = 100;
+        Pool pool = null;
+        int numberAlreadyBorn = 0;
+        int numberOfFry = 0;
+        for (int attempt = 0; attempt < maximumAttempts && numberOfFry == 0; attempt++) {
+            pool = new Pool();
+            for (int i = 0; i < numberOfFemales; i++) {
+                pool.addFish(new Guppy("a", "b", Guppy.MATURE_FISH_AGE_IN_WEEKS, true, 2, 0.5));
+            }
+            numberAlreadyBorn = Guppy.getNumberOfFishBorn();
+            numberOfFry = pool.spawn();
+        }
+        assertTrue(numberOfFry > 0, "No fry spawned in " + maximumAttempts + " attempts");
+
+        final int population = numberOfFemales + numberOfFry;
+        assertEquals(numberAlreadyBorn + numberOfFry, Guppy.getNumberOfFishBorn());
+        assertEquals(population, pool.getPopulation());
+        assertEquals((double) numberOfFemales * Guppy.MATURE_FISH_AGE_IN_WEEKS / population,
+                pool.getAverageAgeInWeeks(), 0.000001);
+        assertEquals((numberOfFemales * 0.5 + numberOfFry * (1 + 0.5) / 2.0) / population,
+                pool.getAverageHealthCoefficient(), 0.000001);
+    }
+
+    @Test
+    public void incrementAgesUpdatesEachFishAge() {
+        Pool pool = new Pool();
+        Guppy guppy = new Guppy("a", "b", 3, true, 2, 0.6);
+        Swordtail swordtail = new Swordtail("a", "b", 20, true, 2, 0.6);
+        pool.addFish(guppy);
+        pool.addFish(swordtail);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, pool.incrementAges());
+        }
+        assertEquals(6, guppy.getAgeInWeeks());
+        assertEquals(23, swordtail.getAgeInWeeks());
+    }
+
+    @Test
+    public void incrementAgesCountsFishAddedOrReagedBetweenCalls() {
+        Pool pool = new Pool();
+        Guppy reaged = new Guppy("a", "b", 1, true, 2, 0.6);
+        pool.addFish(reaged);
+        assertEquals(0, pool.incrementAges());
+
+        Guppy lateArrival = new Guppy("a", "b", Guppy.MAXIMUM_AGE_IN_WEEKS, true, 2, 0.6);
+        pool.addFish(lateArrival);
+        reaged.setAgeInWeeks(Guppy.MAXIMUM_AGE_IN_WEEKS);
+        assertEquals(2, pool.incrementAges());
+        assertFalse(reaged.getIsAlive());
+        assertFalse(lateArrival.getIsAlive());
+        assertEquals(0, pool.incrementAges());
+    }
+
+    @Test
+    public void weeklyCycleOnOnePoolDoesNotAffectAnother() {
+        Pool first = new Pool("first", 5.0, 40.0, 7.0, 1.0);
+        Pool second = new Pool("second", 5.0, 40.0, 7.0, 1.0);
+        for (int i = 0; i < 5; i++) {
+            first.addFish(new Guppy("a", "b", Guppy.MAXIMUM_AGE_IN_WEEKS - i, false, 2, 0.6));
+            second.addFish(new Guppy("a", "b", Guppy.MAXIMUM_AGE_IN_WEEKS - i, false, 2, 0.6));
+        }
+
+        assertEquals(0, first.applyNutrientCoefficient());
+        assertEquals(1, first.incrementAges());
+        assertEquals(1, first.removeDeadFish());
+        assertEquals(0, first.spawn());
+        assertEquals(0, first.adjustForCrowding());
+        assertEquals(5, second.getPopulation());
+
+        assertEquals(0, second.applyNutrientCoefficient());
+        assertEquals(1, second.incrementAges());
+        assertEquals(1, second.removeDeadFish());
+        assertEquals(0, second.spawn());
+        assertEquals(0, second.adjustForCrowding());
+
+        assertEquals(first.getPopulation(), second.getPopulation());
+        assertEquals(first.getAverageAgeInWeeks(), second.getAverageAgeInWeeks());
+        assertEquals(first.getFishVolumeRequirementInLitres(), second.getFishVolumeRequirementInLitres());
+    }
+
+    @Test
+    public void applyNutrientCoefficientOnlyRollsForLivingFish() {
+        Pool pool = new Pool();
+        pool.setNutrientCoefficient(0.0);
+        for (int i = 0; i < 5; i++) {
+            Guppy guppy = new Guppy();
+            if (i == 1 || i == 3) {
+                guppy.setIsAlive(false);
+            }
+            pool.addFish(guppy);
+        }
+        assertEquals(3, pool.applyNutrientCoefficient());
+        assertEquals(0, pool.applyNutrientCoefficient());
+    }
+
+    @Test
+    public void spawnOnlyBreedsLivingFemales() {
+        Pool pool = new Pool();
+        Guppy deadFemale = new Guppy("a", "b", Guppy.MATURE_FISH_AGE_IN_WEEKS, true, 2, 0.6);
+        deadFemale.setIsAlive(false);
+        pool.addFish(deadFemale);
+        pool.addFish(new Guppy("a", "b", Guppy.MATURE_FISH_AGE_IN_WEEKS, false, 2, 0.6));
+        pool.addFish(new Swordtail("a", "b", Swordtail.MATURE_FISH_AGE_IN_WEEKS, false, 2, 0.6));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, pool.spawn());
+        }
+    }
+
+    @Test
+    public void removeDeadFishAfterMassDieOff() {
+        Pool pool = new Pool();
+        for (int i = 0; i < 1000; i++) {
+            Guppy guppy = new Guppy("a", "b", i % Guppy.MAXIMUM_AGE_IN_WEEKS, i % 2 == 0, 2, 0.6);
+            if (i % 4 != 0) {
+                guppy.setIsAlive(false);
+            }
+            pool.addFish(guppy);
+        }
+        assertEquals(750, pool.removeDeadFish());
+        assertEquals(250, pool.getPopulation());
+        assertEquals(1, pool.getFemalePercentage());
+
+        pool.setNutrientCoefficient(0.0);
+        assertEquals(250, pool.applyNutrientCoefficient());
+        assertEquals(250, pool.removeDeadFish());
+        assertEquals(0, pool.getPopulation());
+    }
+
+    @Test
+    public void removeDeadFishThenAddFish() {
+        Pool pool = new Pool();
+        for (int i = 0; i < 5; i++) {
+            Guppy guppy = new Guppy("a", "b", i, false, 2, 0.6);
+            if (i < 3) {
+                guppy.setIsAlive(false);
+            }
+            pool.addFish(guppy);
+        }
+        assertEquals(3, pool.removeDeadFish());
+        pool.addFish(new Guppy("a", "b", 6, true, 2, 0.6));
+        assertEquals(3, pool.getPopulation());
+        assertEquals(4, pool.getMedianAge());
+        assertEquals(1.0 / 3, pool.getFemalePercentage(), 0.000001);
+        assertEquals(0, pool.removeDeadFish());
+    }
+
+    @Test
+    public void populationAndFemalePercentageAcrossManyFish() {
+        Pool pool = new Pool();
+        Guppy[] guppies = new Guppy[130];
+        for (int i = 0; i < guppies.length; i++) {
+            guppies[i] = new Guppy("a", "b", 0, i < 65, 2, 0.6);
+            pool.addFish(guppies[i]);
+        }
+        assertEquals(130, pool.getPopulation());
+        assertEquals(0.5, pool.getFemalePercentage());
+
+        guppies[0].setIsAlive(false);
+        guppies[63].changeHealthCoefficient(-1.0);
+        guppies[64].setIsAlive(false);
+        guppies[127].setIsAlive(false);
+        guppies[128].changeHealthCoefficient(-1.0);
+        guppies[129].setAgeInWeeks(Guppy.MAXIMUM_AGE_IN_WEEKS);
+        assertEquals(125, pool.getPopulation());
+        assertEquals(62.0 / 125, pool.getFemalePercentage(), 0.000001);
+
+        assertEquals(1, pool.incrementAges());
+        assertEquals(124, pool.getPopulation());
+        assertEquals(62.0 / 124, pool.getFemalePercentage(), 0.000001);
+    }
+
+    @Test
+    public void applyNutrientCoefficientDeathsMatchPopulationDrop() {
+        Pool pool = new Pool();
+        for (int i = 0; i < 1001; i++) {
+            Guppy guppy = new Guppy();
+            if (i % 10 == 0) {
+                guppy.setIsAlive(false);
+            }
+            pool.addFish(guppy);
+        }
+        final int population = pool.getPopulation();
+        int numOfDeaths = pool.applyNutrientCoefficient();
+        assertTrue(numOfDeaths >= 0 && numOfDeaths <= population);
+        assertEquals(population - numOfDeaths, pool.getPopulation());
+        assertEquals(numOfDeaths + 101, pool.removeDeadFish());
+    }
+
+    @Test
+    public void applyNutrientCoefficientExtremesOnLargePool() {
+        Pool pool = new Pool();
+        for (int i = 0; i < 1001; i++) {
+            pool.addFish(new Swordtail());
+        }
+        pool.setNutrientCoefficient(1.0);
+        assertEquals(0, pool.applyNutrientCoefficient());
+        assertEquals(1001, pool.getPopulation());
+        pool.setNutrientCoefficient(0.0);
+        assertEquals(1001, pool.applyNutrientCoefficient());
+        assertEquals(0, pool.getPopulation());
+    }
+
+    @Test
+    public void getVolumeReqMatchesEachFishAtEveryAge() {
+        for (int age = 0; age <= Swordtail.MAXIMUM_AGE_IN_WEEKS; age++) {
+            Pool pool = new Pool();
+            Swordtail swordtail = new Swordtail("a", "b", age, true, 2, 0.6);
+            pool.addFish(swordtail);
+            double volumeNeeded = swordtail.getVolumeNeeded();
+            if (age <= Guppy.MAXIMUM_AGE_IN_WEEKS) {
+                Guppy guppy = new Guppy("a", "b", age, true, 2, 0.6);
+                pool.addFish(guppy);
+                volumeNeeded += guppy.getVolumeNeeded();
+            }
+            assertEquals(volumeNeeded / Pool.ML_TO_LITRE_CONVERSION,
+                    pool.getFishVolumeRequirementInLitres(), 0.000001);
+        }
+    }
+
+    @Test
+    public void getVolumeReqFollowsIncrementAges() {
+        Pool pool = new Pool();
+        Guppy guppy = new Guppy("a", "b", 0, true, 2, 0.6);
+        pool.addFish(guppy);
+        for (int week = 0; week < Guppy.MAXIMUM_AGE_IN_WEEKS; week++) {
+            pool.incrementAges();
+            assertEquals(guppy.getVolumeNeeded() / Pool.ML_TO_LITRE_CONVERSION,
+                    pool.getFishVolumeRequirementInLitres(), 0.000001);
+        }
+        pool.incrementAges();
+        assertEquals(0, pool.getFishVolumeRequirementInLitres());
+    }
+
+    @Test
+    public void incrementAgesUsesEachSpeciesMaximumAge() {
+        Pool pool = new Pool();
+        Guppy guppy = new Guppy("a", "b", Guppy.MAXIMUM_AGE_IN_WEEKS, true, 2, 0.6);
+        Swordtail swordtail = new Swordtail("a", "b", Guppy.MAXIMUM_AGE_IN_WEEKS, true, 2, 0.6);
+        pool.addFish(guppy);
+        pool.addFish(swordtail);
+        assertEquals(1, pool.incrementAges());
+        assertFalse(guppy.getIsAlive());
+        assertTrue(swordtail.getIsAlive());
+        assertEquals(Guppy.MAXIMUM_AGE_IN_WEEKS + 1, swordtail.getAgeInWeeks());
+    }
+
+    @Test
+    public void spawnCreatesGuppyFryFromGuppyParent() {
+        final int maximumAttempts = 100;
+        Pool pool = null;
+        double parentVolumeRequired = 0;
+        int numberOfFry = 0;
+        for (int attempt = 0; attempt < maximumAttempts && numberOfFry == 0; attempt++) {
+            pool = new Pool();
+            pool.addFish(new Guppy("a", "b", Guppy.MATURE_FISH_AGE_IN_WEEKS, true, 2, 0.6));
+            parentVolumeRequired = pool.getFishVolumeRequirementInLitres();
+            numberOfFry = pool.spawn();
+        }
+        assertTrue(numberOfFry > 0, "No fry spawned in " + maximumAttempts + " attempts");
+        assertEquals(parentVolumeRequired + numberOfFry * Guppy.MINIMUM_WATER_VOLUME_ML / Pool.ML_TO_LITRE_CONVERSION,
+                pool.getFishVolumeRequirementInLitres(), 0.000001);
+    }
+
+    @Test
+    public void spawnCreatesSwordtailFryFromSwordtailParent() {
+        final int maximumAttempts = 100;
+        Pool pool = null;
+        double parentVolumeRequired = 0;
+        int numberOfFry = 0;
+        for (int attempt = 0; attempt < maximumAttempts && numberOfFry == 0; attempt++) {
+            pool = new Pool();
+            pool.addFish(new Swordtail("a", "b", Swordtail.MATURE_FISH_AGE_IN_WEEKS, true, 2, 0.6));
+            parentVolumeRequired = pool.getFishVolumeRequirementInLitres();
+            numberOfFry = pool.spawn();
+        }
+        assertTrue(numberOfFry > 0, "No fry spawned in " + maximumAttempts + " attempts");
+        assertEquals(parentVolumeRequired + numberOfFry * Swordtail.MINIMUM_WATER_VOLUME_ML / Pool.ML_TO_LITRE_CONVERSION,
+                pool.getFishVolumeRequirementInLitres(), 0.000001);
+    }
+
+    @Test
+    public void weeklyStagesSeeEarlierStageDeaths() {
+        Pool pool = new Pool();
+        pool.setNutrientCoefficient(1.0);
+        pool.setVolumeLitres(0.75);
+        pool.addFish(new Guppy("a", "b", Guppy.MAXIMUM_AGE_IN_WEEKS, true, 2, 0.9));
+        for (int i = 0; i < 4; i++) {
+            pool.addFish(new Guppy("a", "b", 0, false, 2, 0.1 + i / 10.0));
+        }
+        assertEquals(0, pool.applyNutrientCoefficient());
+        assertEquals(1, pool.incrementAges());
+        assertEquals(1, pool.removeDeadFish());
+        assertEquals(0, pool.spawn());
+        assertEquals(1, pool.adjustForCrowding());
+        assertEquals(3, pool.getPopulation());
+        assertEquals(0.3, pool.getAverageHealthCoefficient(), 0.000001);
+    }
+
+    @Test
+    public void aggregatesAgreeOnOneMixedPool() {
+        Pool pool = new Pool();
+        pool.addFish(new Guppy("a", "b", 4, true, 2, 0.4));
+        pool.addFish(new Guppy("a", "b", 20, false, 2, 0.8));
+        pool.addFish(new Swordtail("a", "b", 12, true, 2, 0.6));
+        Swordtail deadSwordtail = new Swordtail("a", "b", 30, true, 2, 1.0);
+        deadSwordtail.setIsAlive(false);
+        pool.addFish(deadSwordtail);
+
+        assertEquals(3, pool.getPopulation());
+        assertEquals(12, pool.getAverageAgeInWeeks(), 0.000001);
+        assertEquals(0.6, pool.getAverageHealthCoefficient(), 0.000001);
+        assertEquals(2.0 / 3, pool.getFemalePercentage(), 0.000001);
+        assertEquals(12, pool.getMedianAge());
+        assertEquals(0.25 + 0.25 * 20 / 10 + 1.0 * 12 / 10, pool.getFishVolumeRequirementInLitres(), 0.000001);
+    }
+
+    @Test
+    public void exactCountsOnVeryLargePool() {
+        final int numberOfFish = 100000;
+        Pool pool = new Pool();
+        for (int i = 0; i < numberOfFish; i++) {
+            Guppy guppy = new Guppy("a", "b", i % (Guppy.MAXIMUM_AGE_IN_WEEKS + 1), i % 4 == 0, 2, 0.6);
+            if (i % 5 == 0) {
+                guppy.setIsAlive(false);
+            }
+            pool.addFish(guppy);
+        }
+        assertEquals(numberOfFish * 4 / 5, pool.getPopulation());
+        assertEquals(0.25, pool.getFemalePercentage(), 0.000001);
+
+        int expectedDeaths = 0;
+        for (int i = 0; i < numberOfFish; i++) {
+            if (i % 5 != 0 && i % (Guppy.MAXIMUM_AGE_IN_WEEKS + 1) == Guppy.MAXIMUM_AGE_IN_WEEKS) {
+                expectedDeaths++;
+            }
+        }
+        assertEquals(expectedDeaths, pool.incrementAges());
+        assertEquals(numberOfFish / 5 + expectedDeaths, pool.removeDeadFish());
+        assertEquals(numberOfFish * 4 / 5 - expectedDeaths, pool.getPopulation());
+    }
+
+    @Test
+    public void spawnWithManyFemalesAddsExactlyTheFryReturned() {
+        Pool pool = new Pool();
+        for (int i = 0; i < 20; i++) {
+            Guppy guppy = new Guppy("a", "b", Guppy.MATURE_FISH_AGE_IN_WEEKS, i % 2 == 0, 2, 0.6);
+            if (i % 5 == 0) {
+                guppy.setIsAlive(false);
+            }
+            pool.addFish(guppy);
+        }
+        final int guppiesAlreadyBorn = Guppy.getNumberOfFishBorn();
+        int population = pool.getPopulation();
+        for (int i = 0; i < 2; i++) {
+            final int numberOfFry = pool.spawn();
+            assertTrue(numberOfFry >= 0 && numberOfFry <= 8 * Guppy.MAXIMUM_NUMBER_OF_FRY);
+            assertEquals(population + numberOfFry, pool.getPopulation());
+            population = pool.getPopulation();
+        }
+        assertEquals(population - 16, Guppy.getNumberOfFishBorn() - guppiesAlreadyBorn);
+    }
+
+    @Test
+    public void identicalFishStayIndividuallyAddressable() {
+        Pool pool = new Pool();
+        pool.setVolumeLitres(0.75);
+        Guppy[] guppies = new Guppy[10];
+        for (int i = 0; i < guppies.length; i++) {
+            guppies[i] = new Guppy("a", "b", 0, true, 2, 0.6);
+            pool.addFish(guppies[i]);
+        }
+        guppies[4].setIsAlive(false);
+        assertEquals(9, pool.getPopulation());
+        assertEquals(6, pool.adjustForCrowding());
+        assertEquals(3, pool.getPopulation());
+        assertTrue(pool.getFishVolumeRequirementInLitres() <= pool.getVolumeLitres());
+
+        int survivors = 0;
+        for (Guppy guppy : guppies) {
+            if (guppy.getIsAlive()) {
+                survivors++;
+            }
+        }
+        assertEquals(3, survivors);
+        for (Guppy guppy : guppies) {
+            if (guppy.getIsAlive()) {
+                guppy.setHealthCoefficient(0.9);
+                break;
+            }
+        }
+        assertEquals(2.1 / 3, pool.getAverageHealthCoefficient(), 0.000001);
+    }
 }